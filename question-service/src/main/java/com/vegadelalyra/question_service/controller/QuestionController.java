@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -55,4 +56,9 @@ public class QuestionController {
     public ResponseEntity<Integer> getScore(@RequestBody List<ResponseDTO> responses) {
         return questionService.getScore(responses);
     }
+
+    @PostMapping("score/batch")
+    public ResponseEntity<StreamingResponseBody> getBatchScores(@RequestBody List<List<ResponseDTO>> attempts) {
+        return questionService.getBatchScores(attempts);
+    }
 }
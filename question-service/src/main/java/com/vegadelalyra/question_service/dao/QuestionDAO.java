@@ -1,11 +1,13 @@
 package com.vegadelalyra.question_service.dao;
 
+import com.vegadelalyra.question_service.dao.model.AnswerKeyDTO;
 import com.vegadelalyra.question_service.dao.model.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,4 +19,7 @@ public interface QuestionDAO extends JpaRepository<Question, Integer> {
 
     @Query("SELECT CASE WHEN (q.answer = :response) THEN true ELSE false END FROM Question q WHERE q.id = :id")
     Boolean checkAnswer(@Param("id") Integer id, @Param("response") String response);
+
+    @Query("SELECT new com.vegadelalyra.question_service.dao.model.AnswerKeyDTO(q.id, q.answer) FROM Question q WHERE q.id IN :ids")
+    List<AnswerKeyDTO> findAnswersByIdIn(@Param("ids") Collection<Integer> ids);
 }
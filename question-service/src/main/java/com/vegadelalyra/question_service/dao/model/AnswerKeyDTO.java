@@ -0,0 +1,11 @@
+package com.vegadelalyra.question_service.dao.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AnswerKeyDTO {
+    private Integer id;
+    private String answer;
+}
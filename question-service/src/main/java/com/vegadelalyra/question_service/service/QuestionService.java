@@ -1,22 +1,39 @@
 package com.vegadelalyra.question_service.service;
 
 import com.vegadelalyra.question_service.dao.QuestionDAO;
+import com.vegadelalyra.question_service.dao.model.AnswerKeyDTO;
 import com.vegadelalyra.question_service.dao.model.Question;
 import com.vegadelalyra.question_service.dao.model.QuestionWrapperDTO;
 import com.vegadelalyra.question_service.dao.model.ResponseDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 @Service
 public class QuestionService {
 
+    // Keeps each IN (...) list well below the JDBC bind parameter limit.
+    static final int ANSWER_KEY_CHUNK_SIZE = 1000;
+
+    // One exam window's worth of attempts; larger batches must be split by the caller.
+    static final int MAX_BATCH_ATTEMPTS = 10_000;
+
     @Autowired
     QuestionDAO questionDAO;
 
@@ -70,4 +87,63 @@ public class QuestionService {
 
         return new ResponseEntity<>(score, HttpStatus.OK);
     }
+
+    public ResponseEntity<StreamingResponseBody> getBatchScores(List<List<ResponseDTO>> attempts) {
+        if (attempts.size() > MAX_BATCH_ATTEMPTS) {
+            return new ResponseEntity<>(HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+
+        Map<Integer, String> answerKey = loadAnswerKey(attempts);
+
+        int[] scores = IntStream.range(0, attempts.size())
+                .parallel()
+                .map(attempt -> grade(attempts.get(attempt), answerKey))
+                .toArray();
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            for (int attempt = 0; attempt < scores.length; attempt++) {
+                writer.write("{\"attempt\":" + attempt + ",\"score\":" + scores[attempt] + "}\n");
+            }
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private Map<Integer, String> loadAnswerKey(List<List<ResponseDTO>> attempts) {
+        List<Integer> questionIds = attempts.stream()
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .map(ResponseDTO::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Integer, String> answerKey = new HashMap<>(questionIds.size() * 2);
+        for (int from = 0; from < questionIds.size(); from += ANSWER_KEY_CHUNK_SIZE) {
+            List<Integer> chunk = questionIds.subList(from, Math.min(from + ANSWER_KEY_CHUNK_SIZE, questionIds.size()));
+            for (AnswerKeyDTO answer : questionDAO.findAnswersByIdIn(chunk)) {
+                answerKey.put(answer.getId(), answer.getAnswer());
+            }
+        }
+        return answerKey;
+    }
+
+    // Same semantics as checkAnswer: unknown questions and null answers never match.
+    // Null attempts and null responses score 0 instead of failing the whole batch.
+    private static int grade(List<ResponseDTO> responses, Map<Integer, String> answerKey) {
+        if (responses == null) return 0;
+
+        int score = 0;
+        for (ResponseDTO response : responses) {
+            if (response == null) continue;
+            String answer = answerKey.get(response.getId());
+            if (answer != null && answer.equals(response.getResponse())) score++;
+        }
+        return score;
+    }
 }
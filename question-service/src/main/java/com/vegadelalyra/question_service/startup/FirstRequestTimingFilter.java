@@ -0,0 +1,45 @@
+package com.vegadelalyra.question_service.startup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs the time from JVM start until the first request has been served,
+ * which is what a scale-out event actually waits on.
+ */
+@Slf4j
+@Component
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean firstRequestServed = new AtomicBoolean();
+
+    private volatile long startupToFirstRequestMillis = -1;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (firstRequestServed.compareAndSet(false, true)) {
+                long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+                startupToFirstRequestMillis = System.currentTimeMillis() - jvmStart;
+                log.info("Startup to first request: {} ms ({} {} -> {})",
+                        startupToFirstRequestMillis, request.getMethod(), request.getRequestURI(), response.getStatus());
+            }
+        }
+    }
+
+    public long getStartupToFirstRequestMillis() {
+        return startupToFirstRequestMillis;
+    }
+}
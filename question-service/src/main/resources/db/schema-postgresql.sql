@@ -0,0 +1,14 @@
+-- Schema for the question table. Apply it before starting with the lean profile
+-- (e.g. psql -f db/schema-postgresql.sql), which does not touch the schema at boot.
+-- QuestionSchemaTest validates it against the Question entity on every build.
+CREATE TABLE IF NOT EXISTS question (
+    id          INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255),
+    option1     VARCHAR(255),
+    option2     VARCHAR(255),
+    option3     VARCHAR(255),
+    option4     VARCHAR(255),
+    answer      VARCHAR(255),
+    difficulty  VARCHAR(255),
+    category    VARCHAR(255)
+);
@@ -15,9 +15,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -127,4 +130,27 @@ class QuestionControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().string("5"));
     }
+
+    @Test
+    void getBatchScores() throws Exception {
+        List<List<ResponseDTO>> attempts = List.of(new ArrayList<>(), new ArrayList<>());
+        // Populate attempts list as needed
+        StreamingResponseBody body = outputStream -> outputStream.write(
+                "{\"attempt\":0,\"score\":3}\n{\"attempt\":1,\"score\":1}\n".getBytes(StandardCharsets.UTF_8));
+
+        Mockito.when(questionService.getBatchScores(attempts))
+                .thenReturn(ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body));
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post("/score/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(attempts)))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content()
+                        .string("{\"attempt\":0,\"score\":3}\n{\"attempt\":1,\"score\":1}\n"));
+    }
 }
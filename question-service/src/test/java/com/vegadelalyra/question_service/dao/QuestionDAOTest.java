@@ -1,5 +1,6 @@
 package com.vegadelalyra.question_service.dao;
 
+import com.vegadelalyra.question_service.dao.model.AnswerKeyDTO;
 import com.vegadelalyra.question_service.dao.model.Question;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -125,4 +126,20 @@ class QuestionDAOTest {
         assertThat(passedQuestion).isTrue();
         assertThat(failedQuestion).isFalse();
     }
+
+    @Test
+    void findAnswersByIdIn() {
+        // given
+        List<Integer> ids = List.of(question1.getId(), question2.getId(), question3.getId(), Integer.MAX_VALUE);
+
+        // when
+        List<AnswerKeyDTO> answers = underTest.findAnswersByIdIn(ids);
+
+        // then
+        assertThat(answers).containsExactlyInAnyOrder(
+                new AnswerKeyDTO(question1.getId(), "Right"),
+                new AnswerKeyDTO(question2.getId(), "Wrong"),
+                new AnswerKeyDTO(question3.getId(), null)
+        );
+    }
 }
@@ -0,0 +1,47 @@
+package com.vegadelalyra.question_service.dao;
+
+import com.vegadelalyra.question_service.dao.model.Question;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The lean profile skips schema handling at boot, so db/schema-postgresql.sql is
+ * checked here instead: it is loaded into H2 in PostgreSQL mode and Hibernate
+ * validates the Question mapping against it. The context fails to start on any drift.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/schema-postgresql.sql",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QuestionSchemaTest {
+
+    @Autowired
+    private QuestionDAO underTest;
+
+    @Test
+    void schemaScriptMatchesQuestionEntity() {
+        // given
+        Question question = new Question(null, "Title", "A", "B", "C", "D", "A", "Easy", "Java");
+
+        // when
+        Question saved = underTest.saveAndFlush(question);
+
+        // then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(underTest.findAnswersByIdIn(List.of(saved.getId())))
+                .singleElement()
+                .satisfies(answerKey -> assertThat(answerKey.getAnswer()).isEqualTo("A"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.vegadelalyra.question_service.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-capacity, lock-free sample store for one timed operation.
+ */
+class LatencyRecorder {
+
+    private final long[] samples;
+    private final AtomicInteger size = new AtomicInteger();
+
+    LatencyRecorder(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    void record(long nanos) {
+        int slot = size.getAndIncrement();
+        if (slot < samples.length) samples[slot] = nanos;
+    }
+
+    Percentiles percentiles() {
+        long[] sorted = Arrays.copyOf(samples, Math.min(size.get(), samples.length));
+        Arrays.sort(sorted);
+        return new Percentiles(
+                sorted.length,
+                valueAt(sorted, 0.50),
+                valueAt(sorted, 0.95),
+                valueAt(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]
+        );
+    }
+
+    private static long valueAt(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    record Percentiles(int count, long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.vegadelalyra.question_service.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of one {@link LoadScenario} run.
+ */
+public record LoadReport(
+        LoadScenario scenario,
+        int completed,
+        int failed,
+        long elapsedNanos,
+        int peakRequestsInFlight,
+        long queryCount,
+        Map<String, LatencyRecorder.Percentiles> latencies,
+        Map<String, Long> failuresByType,
+        List<String> failureSamples
+) {
+
+    public double throughputPerSecond() {
+        return completed / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double queriesPerAttempt() {
+        return completed == 0 ? 0 : (double) queryCount / completed;
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("%n=== scenario: %s ===%n", scenario.name()))
+                .append(String.format("attempts: %d completed, %d failed in %.2fs (target %.0f/s, max %d in flight)%n",
+                        completed, failed, elapsedNanos / 1_000_000_000.0,
+                        scenario.arrivalRatePerSecond(), scenario.maxInFlight()))
+                .append(String.format("throughput: %.1f attempts/s%n", throughputPerSecond()))
+                .append(String.format("peak concurrent requests: %d%n", peakRequestsInFlight))
+                .append(String.format("db queries: %d total, %.1f per attempt%n", queryCount, queriesPerAttempt()))
+                .append(String.format("%-10s %8s %10s %10s %10s %10s%n", "operation", "count", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        latencies.forEach((operation, percentiles) -> report.append(String.format(
+                "%-10s %8d %10.2f %10.2f %10.2f %10.2f%n",
+                operation,
+                percentiles.count(),
+                percentiles.p50Nanos() / 1_000_000.0,
+                percentiles.p95Nanos() / 1_000_000.0,
+                percentiles.p99Nanos() / 1_000_000.0,
+                percentiles.maxNanos() / 1_000_000.0)));
+
+        if (failed > 0) {
+            report.append("failures by type:").append(System.lineSeparator());
+            failuresByType.forEach((type, count) -> report.append(String.format("  %6d  %s%n", count, type)));
+            report.append("first failures:").append(System.lineSeparator());
+            failureSamples.forEach(sample -> report.append("  ").append(sample).append(System.lineSeparator()));
+        }
+
+        return report.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package com.vegadelalyra.question_service.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * One load profile: how many quiz attempts to start, how fast they arrive,
+ * and how the attempts are spread over the seeded categories.
+ */
+public record LoadScenario(
+        String name,
+        int attempts,
+        double arrivalRatePerSecond,
+        int maxInFlight,
+        int questionsPerQuiz,
+        Map<String, Double> categoryWeights
+) {
+
+    public LoadScenario {
+        if (attempts <= 0) throw new IllegalArgumentException("attempts must be positive");
+        if (arrivalRatePerSecond <= 0) throw new IllegalArgumentException("arrivalRatePerSecond must be positive");
+        if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be positive");
+        if (categoryWeights.isEmpty()) throw new IllegalArgumentException("categoryWeights must not be empty");
+        categoryWeights = Map.copyOf(categoryWeights);
+    }
+
+    public static Map<String, Double> uniform(List<String> categories) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        categories.forEach(category -> weights.put(category, 1.0));
+        return weights;
+    }
+
+    // Zipf-like skew: the n-th category gets weight 1 / n^exponent.
+    public static Map<String, Double> zipf(List<String> categories, double exponent) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        for (int rank = 1; rank <= categories.size(); rank++) {
+            weights.put(categories.get(rank - 1), 1.0 / Math.pow(rank, exponent));
+        }
+        return weights;
+    }
+
+    public String pickCategory(RandomGenerator random) {
+        double total = categoryWeights.values().stream().mapToDouble(Double::doubleValue).sum();
+        double target = random.nextDouble(total);
+
+        String picked = null;
+        for (Map.Entry<String, Double> weight : categoryWeights.entrySet()) {
+            picked = weight.getKey();
+            target -= weight.getValue();
+            if (target < 0) break;
+        }
+        return picked;
+    }
+
+    public long arrivalIntervalNanos() {
+        return (long) (1_000_000_000L / arrivalRatePerSecond);
+    }
+}
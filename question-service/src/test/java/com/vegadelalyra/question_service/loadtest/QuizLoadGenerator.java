@@ -0,0 +1,130 @@
+package com.vegadelalyra.question_service.loadtest;
+
+import com.vegadelalyra.question_service.dao.model.ResponseDTO;
+import org.hibernate.stat.Statistics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: attempts are started on a fixed arrival schedule,
+ * independently of how fast earlier attempts complete, each on its own virtual thread.
+ */
+class QuizLoadGenerator {
+
+    private static final int FAILURE_SAMPLES = 5;
+
+    private final QuizServiceStub quizService;
+    private final Statistics statistics;
+
+    // HTTP calls currently outstanding against the service, and the highest value seen in a run
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+    private final AtomicInteger peakRequestsInFlight = new AtomicInteger();
+
+    QuizLoadGenerator(QuizServiceStub quizService, Statistics statistics) {
+        this.quizService = quizService;
+        this.statistics = statistics;
+    }
+
+    LoadReport run(LoadScenario scenario) throws InterruptedException {
+        Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+        latencies.put("GET quiz", new LatencyRecorder(scenario.attempts()));
+        latencies.put("POST quiz", new LatencyRecorder(scenario.attempts()));
+        latencies.put("POST score", new LatencyRecorder(scenario.attempts()));
+        latencies.put("attempt", new LatencyRecorder(scenario.attempts()));
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Map<String, LongAdder> failuresByType = new ConcurrentHashMap<>();
+        Queue<String> failureSamples = new ConcurrentLinkedQueue<>();
+        Semaphore inFlight = new Semaphore(scenario.maxInFlight());
+
+        requestsInFlight.set(0);
+        peakRequestsInFlight.set(0);
+        statistics.clear();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < scenario.attempts(); i++) {
+                long scheduledAt = start + i * scenario.arrivalIntervalNanos();
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+
+                String category = scenario.pickCategory(ThreadLocalRandom.current());
+                inFlight.acquire();
+                executor.submit(() -> {
+                    try {
+                        runAttempt(scenario, category, latencies);
+                        // measured from the scheduled start so queueing delay is not hidden
+                        latencies.get("attempt").record(System.nanoTime() - scheduledAt);
+                        completed.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if (failed.incrementAndGet() <= FAILURE_SAMPLES) {
+                            failureSamples.add(e.getClass().getSimpleName() + ": " + e.getMessage());
+                        }
+                        failuresByType.computeIfAbsent(e.getClass().getName(), type -> new LongAdder()).increment();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Map<String, LatencyRecorder.Percentiles> percentiles = new LinkedHashMap<>();
+        latencies.forEach((operation, recorder) -> percentiles.put(operation, recorder.percentiles()));
+        Map<String, Long> failureCounts = new LinkedHashMap<>();
+        failuresByType.forEach((type, count) -> failureCounts.put(type, count.sum()));
+
+        return new LoadReport(
+                scenario,
+                completed.get(),
+                failed.get(),
+                elapsed,
+                peakRequestsInFlight.get(),
+                statistics.getPrepareStatementCount(),
+                percentiles,
+                failureCounts,
+                List.copyOf(failureSamples)
+        );
+    }
+
+    private void runAttempt(LoadScenario scenario, String category, Map<String, LatencyRecorder> latencies) {
+        List<Integer> questionIds = timed(latencies.get("GET quiz"),
+                () -> quizService.createQuiz(category, scenario.questionsPerQuiz()));
+
+        List<QuizServiceStub.QuizQuestion> questions = timed(latencies.get("POST quiz"),
+                () -> quizService.getQuizQuestions(questionIds));
+
+        List<ResponseDTO> responses = QuizServiceStub.answerRandomly(questions, ThreadLocalRandom.current());
+        Integer score = timed(latencies.get("POST score"), () -> quizService.submitQuiz(responses));
+
+        if (score == null || score < 0 || score > responses.size()) {
+            throw new IllegalStateException("Unexpected score " + score + " for " + responses.size() + " responses");
+        }
+    }
+
+    private <T> T timed(LatencyRecorder recorder, Supplier<T> call) {
+        peakRequestsInFlight.accumulateAndGet(requestsInFlight.incrementAndGet(), Math::max);
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            recorder.record(System.nanoTime() - start);
+            return result;
+        } finally {
+            requestsInFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.vegadelalyra.question_service.loadtest;
+
+import com.vegadelalyra.question_service.dao.QuestionDAO;
+import com.vegadelalyra.question_service.dao.model.Question;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the full quiz lifecycle against an in-process instance backed by H2.
+ * Excluded from the default build; run with {@code mvn test -Pload-test}.
+ * Tune with {@code -Dloadtest.attempts}, {@code -Dloadtest.arrivalRate},
+ * {@code -Dloadtest.maxInFlight} and {@code -Dloadtest.questionsPerQuiz}.
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class QuizLoadTest {
+
+    private static final List<String> CATEGORIES =
+            List.of("Java", "Python", "History", "Geography", "Science", "Philosophy", "Math", "Music");
+    private static final int QUESTIONS_PER_CATEGORY = 200;
+
+    private static final int ATTEMPTS = Integer.getInteger("loadtest.attempts", 2000);
+    private static final double ARRIVAL_RATE = Double.parseDouble(System.getProperty("loadtest.arrivalRate", "250"));
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("loadtest.maxInFlight", 1000);
+    private static final int QUESTIONS_PER_QUIZ = Integer.getInteger("loadtest.questionsPerQuiz", 10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private QuestionDAO questionDAO;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QuizLoadGenerator generator;
+
+    static Stream<LoadScenario> scenarios() {
+        return Stream.of(
+                new LoadScenario("uniform", ATTEMPTS, ARRIVAL_RATE, MAX_IN_FLIGHT, QUESTIONS_PER_QUIZ,
+                        LoadScenario.uniform(CATEGORIES)),
+                new LoadScenario("zipf-skew", ATTEMPTS, ARRIVAL_RATE, MAX_IN_FLIGHT, QUESTIONS_PER_QUIZ,
+                        LoadScenario.zipf(CATEGORIES, 1.2)),
+                new LoadScenario("exam-burst", ATTEMPTS, ARRIVAL_RATE * 4, MAX_IN_FLIGHT, QUESTIONS_PER_QUIZ,
+                        LoadScenario.zipf(CATEGORIES, 3.0))
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        if (questionDAO.count() == 0) {
+            List<Question> questions = new ArrayList<>();
+            for (String category : CATEGORIES) {
+                for (int i = 1; i <= QUESTIONS_PER_CATEGORY; i++) {
+                    questions.add(new Question(null, category + " question " + i,
+                            "A", "B", "C", "D", List.of("A", "B", "C", "D").get(i % 4), "Easy", category));
+                }
+            }
+            questionDAO.saveAll(questions);
+        }
+
+        generator = new QuizLoadGenerator(
+                new QuizServiceStub("http://localhost:" + port),
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("scenarios")
+    void runScenario(LoadScenario scenario) throws InterruptedException {
+        // when
+        LoadReport report = generator.run(scenario);
+        System.out.println(report.format());
+
+        // then
+        assertThat(report.failed()).as(report.format()).isZero();
+        assertThat(report.completed()).isEqualTo(scenario.attempts());
+        assertThat(report.queryCount()).isPositive();
+    }
+}
@@ -0,0 +1,85 @@
+package com.vegadelalyra.question_service.loadtest;
+
+import com.vegadelalyra.question_service.dao.model.ResponseDTO;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
+
+/**
+ * Stands in for the quiz service: drives the question service through the same
+ * three calls its Feign client makes over one quiz attempt.
+ */
+class QuizServiceStub {
+
+    private final RestClient restClient;
+
+    QuizServiceStub(String baseUrl) {
+        // The JDK client opens as many HTTP/1.1 connections as there are concurrent requests,
+        // unlike the HttpComponents default of 5 per route that RestClient would otherwise pick
+        // up from the classpath and that would cap the load at a handful of requests.
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    // GET /quiz, as done when the quiz is created
+    List<Integer> createQuiz(String categoryName, int numQuestions) {
+        return restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/quiz")
+                        .queryParam("categoryName", categoryName)
+                        .queryParam("numQuestions", numQuestions)
+                        .build())
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+    }
+
+    // POST /quiz, as done when a user opens the quiz
+    List<QuizQuestion> getQuizQuestions(List<Integer> questionIds) {
+        return restClient.post()
+                .uri("/quiz")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(questionIds)
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+    }
+
+    // POST /score, as done when the user submits the quiz
+    Integer submitQuiz(List<ResponseDTO> responses) {
+        return restClient.post()
+                .uri("/score")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responses)
+                .retrieve()
+                .body(Integer.class);
+    }
+
+    static List<ResponseDTO> answerRandomly(List<QuizQuestion> questions, RandomGenerator random) {
+        return questions.stream().map(question -> {
+            ResponseDTO response = new ResponseDTO();
+            response.setId(question.id());
+            response.setResponse(question.options().get(random.nextInt(question.options().size())));
+            return response;
+        }).toList();
+    }
+
+    record QuizQuestion(Integer id, String title, String option1, String option2, String option3, String option4) {
+
+        List<String> options() {
+            return List.of(option1, option2, option3, option4);
+        }
+    }
+}
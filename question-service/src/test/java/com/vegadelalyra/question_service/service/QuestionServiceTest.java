@@ -1,6 +1,7 @@
 package com.vegadelalyra.question_service.service;
 
 import com.vegadelalyra.question_service.dao.QuestionDAO;
+import com.vegadelalyra.question_service.dao.model.AnswerKeyDTO;
 import com.vegadelalyra.question_service.dao.model.Question;
 import com.vegadelalyra.question_service.dao.model.QuestionWrapperDTO;
 import com.vegadelalyra.question_service.dao.model.ResponseDTO;
@@ -11,13 +12,19 @@ import org.mockito.Mock;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org. assertj. core. api. Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -223,4 +230,112 @@ class QuestionServiceTest {
         assertEquals(score, responseEntity.getBody());
     }
 
-}
\ No newline at end of file
+    @Test
+    void getBatchScores() throws Exception {
+        // given
+        List<List<ResponseDTO>> attempts = List.of(
+                List.of(response(1, "Answer 1"), response(2, "Answer 2")),
+                List.of(response(1, "Wrong"), response(3, "Answer 3")),
+                List.of(response(99, "Unknown question"), response(3, "Answer 3"))
+        );
+
+        when(questionDAO.findAnswersByIdIn(anyCollection())).thenReturn(List.of(
+                new AnswerKeyDTO(1, "Answer 1"),
+                new AnswerKeyDTO(2, "Answer 2"),
+                new AnswerKeyDTO(3, null)
+        ));
+
+        // when
+        ResponseEntity<StreamingResponseBody> responseEntity = underTest.getBatchScores(attempts);
+
+        // then
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, responseEntity.getHeaders().getContentType());
+        assertThat(streamed(responseEntity)).containsExactly(
+                "{\"attempt\":0,\"score\":2}",
+                "{\"attempt\":1,\"score\":0}",
+                "{\"attempt\":2,\"score\":0}"
+        );
+        verify(questionDAO, times(1)).findAnswersByIdIn(anyCollection());
+        verify(questionDAO, never()).checkAnswer(anyInt(), anyString());
+    }
+
+    @Test
+    void getBatchScores_QueriesUnionOfIdsInChunks() throws Exception {
+        // given
+        int distinctQuestions = QuestionService.ANSWER_KEY_CHUNK_SIZE * 2 + 1;
+        List<List<ResponseDTO>> attempts = new ArrayList<>();
+        for (int attempt = 0; attempt < 50; attempt++) {
+            attempts.add(IntStream.rangeClosed(1, distinctQuestions)
+                    .mapToObj(id -> response(id, "Answer " + id))
+                    .toList());
+        }
+
+        when(questionDAO.findAnswersByIdIn(anyCollection())).thenAnswer(invocationOnMock -> {
+            List<Integer> ids = invocationOnMock.getArgument(0);
+            return ids.stream().map(id -> new AnswerKeyDTO(id, "Answer " + id)).toList();
+        });
+
+        // when
+        ResponseEntity<StreamingResponseBody> responseEntity = underTest.getBatchScores(attempts);
+
+        // then
+        List<String> lines = streamed(responseEntity);
+        assertEquals(attempts.size(), lines.size());
+        assertThat(lines).allMatch(line -> line.endsWith("\"score\":" + distinctQuestions + "}"));
+        verify(questionDAO, times(3)).findAnswersByIdIn(anyCollection());
+    }
+
+    @Test
+    void getBatchScores_NullAttemptsAndResponsesScoreZero() throws Exception {
+        // given
+        List<List<ResponseDTO>> attempts = new ArrayList<>();
+        attempts.add(List.of(response(1, "Answer 1")));
+        attempts.add(null);
+        attempts.add(Arrays.asList(null, response(1, "Answer 1"), response(null, "No id")));
+
+        when(questionDAO.findAnswersByIdIn(anyCollection())).thenReturn(List.of(new AnswerKeyDTO(1, "Answer 1")));
+
+        // when
+        ResponseEntity<StreamingResponseBody> responseEntity = underTest.getBatchScores(attempts);
+
+        // then
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertThat(streamed(responseEntity)).containsExactly(
+                "{\"attempt\":0,\"score\":1}",
+                "{\"attempt\":1,\"score\":0}",
+                "{\"attempt\":2,\"score\":1}"
+        );
+        verify(questionDAO, times(1)).findAnswersByIdIn(List.of(1));
+    }
+
+    @Test
+    void getBatchScores_RejectsBatchesOverTheLimit() {
+        // given
+        List<List<ResponseDTO>> attempts = new ArrayList<>();
+        for (int attempt = 0; attempt <= QuestionService.MAX_BATCH_ATTEMPTS; attempt++) {
+            attempts.add(List.of(response(1, "Answer 1")));
+        }
+
+        // when
+        ResponseEntity<StreamingResponseBody> responseEntity = underTest.getBatchScores(attempts);
+
+        // then
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, responseEntity.getStatusCode());
+        assertNull(responseEntity.getBody());
+        verify(questionDAO, never()).findAnswersByIdIn(anyCollection());
+    }
+
+    private static ResponseDTO response(Integer id, String answer) {
+        ResponseDTO response = new ResponseDTO();
+        response.setId(id);
+        response.setResponse(answer);
+        return response;
+    }
+
+    private static List<String> streamed(ResponseEntity<StreamingResponseBody> responseEntity) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        responseEntity.getBody().writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
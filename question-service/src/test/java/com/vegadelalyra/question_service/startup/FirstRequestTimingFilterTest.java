@@ -0,0 +1,32 @@
+package com.vegadelalyra.question_service.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FirstRequestTimingFilterTest {
+
+    private final FirstRequestTimingFilter underTest = new FirstRequestTimingFilter();
+
+    @Test
+    void notRecordedBeforeFirstRequest() {
+        assertThat(underTest.getStartupToFirstRequestMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    void recordsOnlyTheFirstRequest() throws Exception {
+        // when
+        underTest.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(), new MockFilterChain());
+        long firstMeasurement = underTest.getStartupToFirstRequestMillis();
+
+        Thread.sleep(5);
+        underTest.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(firstMeasurement).isPositive();
+        assertThat(underTest.getStartupToFirstRequestMillis()).isEqualTo(firstMeasurement);
+    }
+}
@@ -0,0 +1,42 @@
+package com.vegadelalyra.question_service.startup;
+
+import com.vegadelalyra.question_service.QuestionServiceApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Build-time startup report, used only by the startup-report execution of the
+ * fast-start Maven profile. It boots the application, sends it one request so
+ * {@link FirstRequestTimingFilter} records a measurement, prints it and shuts down.
+ * <p>
+ * The build has no database, so the request goes to an unmapped path and gets a 404.
+ * The reported startup-to-first-dispatch time therefore covers JVM start, context
+ * refresh and the first DispatcherServlet dispatch, but not the first Hikari
+ * connection or Hibernate query, which in the lean profile happen on the first
+ * real request in production.
+ */
+public class StartupReportLauncher {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = SpringApplication.run(QuestionServiceApplication.class, args);
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        try {
+            RestClient.create("http://localhost:" + port)
+                    .get()
+                    .uri("/startup-probe")
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RestClientResponseException ignored) {
+            // the 404 is expected
+        }
+
+        long millis = context.getBean(FirstRequestTimingFilter.class).getStartupToFirstRequestMillis();
+        System.out.println("STARTUP REPORT: startup-to-first-dispatch=" + millis + " ms"
+                + " (unmapped path; excludes first DB connection and query)");
+
+        System.exit(SpringApplication.exit(context));
+    }
+}